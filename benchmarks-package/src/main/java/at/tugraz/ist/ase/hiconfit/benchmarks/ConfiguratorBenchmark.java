@@ -0,0 +1,59 @@
+/*
+ * High Performance Knowledge Based Configuration Techniques
+ *
+ * Copyright (c) 2023
+ *
+ * @author: Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+
+package at.tugraz.ist.ase.hiconfit.benchmarks;
+
+import at.tugraz.ist.ase.hiconfit.cacdr_core.Solution;
+import at.tugraz.ist.ase.hiconfit.cacdr_core.translator.fm.FMSolutionTranslator;
+import at.tugraz.ist.ase.hiconfit.configurator.Configurator;
+import at.tugraz.ist.ase.hiconfit.fm.core.AbstractRelationship;
+import at.tugraz.ist.ase.hiconfit.fm.core.CTConstraint;
+import at.tugraz.ist.ase.hiconfit.fm.core.Feature;
+import at.tugraz.ist.ase.hiconfit.fm.core.FeatureModel;
+import at.tugraz.ist.ase.hiconfit.fm.parser.FMParserFactory;
+import at.tugraz.ist.ase.hiconfit.kb.fm.FMKB;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Configurator.findSolutions on the (fault-free) feature models.
+ *
+ * @author Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ConfiguratorBenchmark {
+
+    @Param({"FeatureIDE/pizzas.xml", "FeatureIDE/busybox-1.18.0.xml"})
+    public String model;
+
+    @Param({"1", "10"})
+    public int maxNumConf;
+
+    private Configurator configurator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        FMParserFactory<Feature, AbstractRelationship<Feature>, CTConstraint> factory = FMParserFactory.getInstance();
+        FeatureModel<Feature, AbstractRelationship<Feature>, CTConstraint> featureModel = FeatureModels.parse(model, factory);
+
+        configurator = new Configurator(new FMKB<>(featureModel, false), true, new FMSolutionTranslator());
+    }
+
+    @Benchmark
+    public Solution findSolutions() {
+        configurator.emptySolutions();
+        configurator.findSolutions(false, maxNumConf);
+        return configurator.getLastestSolution();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * High Performance Knowledge Based Configuration Techniques
+ *
+ * Copyright (c) 2023
+ *
+ * @author: Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+
+package at.tugraz.ist.ase.hiconfit.benchmarks;
+
+import at.tugraz.ist.ase.hiconfit.cacdr.algorithms.QuickXPlain;
+import at.tugraz.ist.ase.hiconfit.kb.core.Constraint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the identification of one minimal conflict by QuickXPlain.
+ *
+ * @author Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConflictBenchmark {
+
+    @Benchmark
+    public Set<Constraint> quickXPlain(FaultyModelState state, ConsistencyChecks checks) {
+        return new QuickXPlain(state.getChecker()).findConflictSet(state.getC(), state.getB());
+    }
+}
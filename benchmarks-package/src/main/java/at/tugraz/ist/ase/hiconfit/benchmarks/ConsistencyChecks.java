@@ -0,0 +1,52 @@
+/*
+ * High Performance Knowledge Based Configuration Techniques
+ *
+ * Copyright (c) 2023
+ *
+ * @author: Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+
+package at.tugraz.ist.ase.hiconfit.benchmarks;
+
+import at.tugraz.ist.ase.hiconfit.eval.EvaluationContext;
+import org.openjdk.jmh.annotations.*;
+
+import static at.tugraz.ist.ase.hiconfit.cacdr.eval.CAEvaluator.COUNTER_CHOCO_SOLVER_CALLS;
+import static at.tugraz.ist.ase.hiconfit.cacdr.eval.CAEvaluator.COUNTER_CONSISTENCY_CHECKS;
+
+/**
+ * Reports the consistency checks of a benchmark next to its score.
+ * <p>
+ * An {@link EvaluationContext} is bound to the benchmark thread for each iteration, so that
+ * the algorithms and the checkers count into it. The public methods are reported by JMH as secondary
+ * results in the unit of the primary result, e.g., consistencyChecks in checks/s next to the throughput in ops/s.
+ * The number of consistency checks per operation is the secondary result divided by the throughput.
+ *
+ * @author Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class ConsistencyChecks {
+
+    private final EvaluationContext context = new EvaluationContext("benchmark");
+    private EvaluationContext.Scope scope;
+
+    @Setup(Level.Iteration)
+    public void bind() {
+        context.reset();
+        scope = context.bind();
+    }
+
+    @TearDown(Level.Iteration)
+    public void unbind() {
+        scope.close();
+    }
+
+    public long consistencyChecks() {
+        return context.getCounter(COUNTER_CONSISTENCY_CHECKS).getValue();
+    }
+
+    public long solverCalls() {
+        return context.getCounter(COUNTER_CHOCO_SOLVER_CALLS).getValue();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * High Performance Knowledge Based Configuration Techniques
+ *
+ * Copyright (c) 2023
+ *
+ * @author: Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+
+package at.tugraz.ist.ase.hiconfit.benchmarks;
+
+import at.tugraz.ist.ase.hiconfit.cacdr.algorithms.DirectDebug;
+import at.tugraz.ist.ase.hiconfit.cacdr.algorithms.FastDiagV3;
+import at.tugraz.ist.ase.hiconfit.cacdr.algorithms.FlexDiag;
+import at.tugraz.ist.ase.hiconfit.cacdr_core.ITestCase;
+import at.tugraz.ist.ase.hiconfit.kb.core.Constraint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the identification of one diagnosis by FastDiagV3, FlexDiag and DirectDebug.
+ *
+ * @author Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DiagnosisBenchmark {
+
+    @Benchmark
+    public Set<Constraint> fastDiagV3(FaultyModelState state, ConsistencyChecks checks) {
+        return new FastDiagV3(state.getChecker()).findDiagnosis(state.getC(), state.getB());
+    }
+
+    @Benchmark
+    public Set<Constraint> flexDiag(FaultyModelState state, ConsistencyChecks checks) {
+        return new FlexDiag(state.getChecker()).findDiagnosis(state.getC(), state.getAC(), 1);
+    }
+
+    @Benchmark
+    public Map.Entry<Set<ITestCase>, Set<Constraint>> directDebug(FaultyModelState state, ConsistencyChecks checks) {
+        return new DirectDebug(state.getDebuggingChecker()).findDiagnosis(state.getCF(), state.getBF(), state.getTC());
+    }
+}
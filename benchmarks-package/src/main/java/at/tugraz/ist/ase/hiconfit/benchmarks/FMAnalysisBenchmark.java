@@ -0,0 +1,70 @@
+/*
+ * High Performance Knowledge Based Configuration Techniques
+ *
+ * Copyright (c) 2023
+ *
+ * @author: Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+
+package at.tugraz.ist.ase.hiconfit.benchmarks;
+
+import at.tugraz.ist.ase.hiconfit.fm.builder.IFeatureBuildable;
+import at.tugraz.ist.ase.hiconfit.fm.core.AbstractRelationship;
+import at.tugraz.ist.ase.hiconfit.fm.core.CTConstraint;
+import at.tugraz.ist.ase.hiconfit.fm.core.FeatureModel;
+import at.tugraz.ist.ase.hiconfit.fm.parser.FMParserFactory;
+import at.tugraz.ist.ase.hiconfit.fma.FMAnalyzer;
+import at.tugraz.ist.ase.hiconfit.fma.analysis.AbstractFMAnalysis;
+import at.tugraz.ist.ase.hiconfit.fma.anomaly.AnomalyAwareFeature;
+import at.tugraz.ist.ase.hiconfit.fma.anomaly.AnomalyAwareFeatureBuilder;
+import at.tugraz.ist.ase.hiconfit.fma.anomaly.AnomalyType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks FMAnalyzer.generateAndRun on feature models with injected dead features.
+ *
+ * @author Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class FMAnalysisBenchmark {
+
+    private static final EnumSet<AnomalyType> ANOMALY_TYPES = EnumSet.of(AnomalyType.VOID, AnomalyType.DEAD,
+            AnomalyType.FALSEOPTIONAL, AnomalyType.FULLMANDATORY, AnomalyType.REDUNDANT);
+
+    @Param({"FeatureIDE/pizzas.xml", "FeatureIDE/mobilemedia2.xml"})
+    public String model;
+
+    @Param({"1", "2", "3"})
+    public int faults;
+
+    @Param({"true", "false"})
+    public boolean withDiagnosis;
+
+    private FeatureModel<AnomalyAwareFeature, AbstractRelationship<AnomalyAwareFeature>, CTConstraint> featureModel;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        IFeatureBuildable featureBuilder = new AnomalyAwareFeatureBuilder();
+        FMParserFactory<AnomalyAwareFeature, AbstractRelationship<AnomalyAwareFeature>, CTConstraint>
+                factory = FMParserFactory.getInstance(featureBuilder);
+
+        featureModel = FeatureModels.parse(model, factory);
+        new FaultInjector<>(featureModel, faults).injectDeadFeatures();
+    }
+
+    @Benchmark
+    public List<AbstractFMAnalysis<?>> generateAndRun(ConsistencyChecks checks) throws CloneNotSupportedException {
+        FMAnalyzer analyzer = new FMAnalyzer(featureModel);
+        analyzer.generateAndRun(ANOMALY_TYPES, withDiagnosis);
+        return analyzer.getAnalyses();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * High Performance Knowledge Based Configuration Techniques
+ *
+ * Copyright (c) 2023
+ *
+ * @author: Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+
+package at.tugraz.ist.ase.hiconfit.benchmarks;
+
+import at.tugraz.ist.ase.hiconfit.cacdr_core.Assignment;
+import at.tugraz.ist.ase.hiconfit.cacdr_core.ITestCase;
+import at.tugraz.ist.ase.hiconfit.cacdr_core.Requirement;
+import at.tugraz.ist.ase.hiconfit.cacdr_core.TestSuite;
+import at.tugraz.ist.ase.hiconfit.cacdr_core.builder.fm.FMTestCaseBuilder;
+import at.tugraz.ist.ase.hiconfit.fm.core.AbstractRelationship;
+import at.tugraz.ist.ase.hiconfit.fm.core.CTConstraint;
+import at.tugraz.ist.ase.hiconfit.fm.core.Feature;
+import at.tugraz.ist.ase.hiconfit.fm.core.FeatureModel;
+import lombok.Getter;
+import lombok.NonNull;
+import org.javatuples.Pair;
+
+import java.util.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Injects a given number of faults into a feature model.
+ * <p>
+ * Each fault is a feature f with its parent p, where neither f nor p is the root feature,
+ * and the pairs don't share features. Since f requires p in the feature model, a fault can be used as
+ * <ul>
+ *     <li>a conflicting requirement {f = true, p = false},</li>
+ *     <li>a positive test case f & ~p, which the feature model doesn't accept,</li>
+ *     <li>a dead feature f with the constraint f excludes p,</li>
+ *     <li>a redundant constraint f requires p.</li>
+ * </ul>
+ * The features are selected randomly with a fixed seed, so that the benchmarks are reproducible.
+ *
+ * @author Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+public class FaultInjector<F extends Feature, R extends AbstractRelationship<F>, C extends CTConstraint> {
+
+    public static final long SEED = 42;
+
+    private final FeatureModel<F, R, C> featureModel;
+
+    /**
+     * The injected faults - pairs of a feature and its parent
+     */
+    @Getter
+    private final List<Pair<F, F>> faults = new LinkedList<>();
+
+    @SuppressWarnings("unchecked")
+    public FaultInjector(@NonNull FeatureModel<F, R, C> featureModel, int numFaults) {
+        checkArgument(numFaults >= 0, "The number of faults must be non-negative");
+        this.featureModel = featureModel;
+
+        List<F> features = new ArrayList<>();
+        for (int i = 0; i < featureModel.getNumOfFeatures(); i++) {
+            features.add(featureModel.getFeature(i));
+        }
+        Collections.shuffle(features, new Random(SEED));
+
+        Set<Feature> used = new HashSet<>();
+        for (F feature : features) {
+            if (faults.size() == numFaults) {
+                break;
+            }
+
+            F parent = (F) feature.getParent();
+            if (feature.isRoot() || parent == null || parent.isRoot()
+                    || used.contains(feature) || used.contains(parent)) {
+                continue;
+            }
+
+            faults.add(Pair.with(feature, parent));
+            used.add(feature);
+            used.add(parent);
+        }
+        checkArgument(faults.size() == numFaults, "The feature model %s has not enough features for %s faults",
+                featureModel.getName(), numFaults);
+    }
+
+    /**
+     * @return a requirement with the assignments f = true and p = false of each fault
+     */
+    public Requirement getConflictingRequirement() {
+        List<Assignment> assignments = new LinkedList<>();
+        for (Pair<F, F> fault : faults) {
+            assignments.add(Assignment.builder().variable(fault.getValue0().getName()).value("true").build());
+            assignments.add(Assignment.builder().variable(fault.getValue1().getName()).value("false").build());
+        }
+        return new Requirement(assignments);
+    }
+
+    /**
+     * @return a test suite with the positive test case f & ~p of each fault
+     */
+    public TestSuite getViolatedTestSuite() {
+        FMTestCaseBuilder builder = new FMTestCaseBuilder();
+
+        List<ITestCase> testCases = new LinkedList<>();
+        for (Pair<F, F> fault : faults) {
+            testCases.add(builder.buildTestCase(fault.getValue0().getName() + " & ~" + fault.getValue1().getName()));
+        }
+        return TestSuite.builder().testCases(testCases).build();
+    }
+
+    /**
+     * Adds the constraint f excludes p of each fault to the feature model, which makes f dead.
+     */
+    public void injectDeadFeatures() {
+        faults.forEach(fault -> featureModel.addExcludes(fault.getValue0(), fault.getValue1()));
+    }
+
+    /**
+     * Adds the constraint f requires p of each fault to the feature model,
+     * which is redundant since f already requires p.
+     */
+    public void injectRedundantConstraints() {
+        faults.forEach(fault -> featureModel.addRequires(fault.getValue0(), fault.getValue1()));
+    }
+}
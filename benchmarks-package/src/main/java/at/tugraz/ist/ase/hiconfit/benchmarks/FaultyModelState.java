@@ -0,0 +1,91 @@
+/*
+ * High Performance Knowledge Based Configuration Techniques
+ *
+ * Copyright (c) 2023
+ *
+ * @author: Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+
+package at.tugraz.ist.ase.hiconfit.benchmarks;
+
+import at.tugraz.ist.ase.hiconfit.cacdr.checker.ChocoConsistencyChecker;
+import at.tugraz.ist.ase.hiconfit.cacdr_core.ITestCase;
+import at.tugraz.ist.ase.hiconfit.cacdr_core.translator.fm.FMTestCaseTranslator;
+import at.tugraz.ist.ase.hiconfit.cdrmodel.fm.FMDebuggingModel;
+import at.tugraz.ist.ase.hiconfit.cdrmodel.fm.FMModelWithRequirement;
+import at.tugraz.ist.ase.hiconfit.fm.core.AbstractRelationship;
+import at.tugraz.ist.ase.hiconfit.fm.core.CTConstraint;
+import at.tugraz.ist.ase.hiconfit.fm.core.Feature;
+import at.tugraz.ist.ase.hiconfit.fm.core.FeatureModel;
+import at.tugraz.ist.ase.hiconfit.fm.parser.FMParserFactory;
+import at.tugraz.ist.ase.hiconfit.kb.core.Constraint;
+import lombok.Getter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+
+/**
+ * A feature model with injected faults (see {@link FaultInjector}) for the diagnosis and conflict benchmarks.
+ * <ul>
+ *     <li>The diagnosis model has C = CF ∪ {f = true, p = false of each fault} and B = {f0 = true}.
+ *     Each fault leads to a minimal conflict.</li>
+ *     <li>The debugging model has C = CF, B = {f0 = true} and a positive test case f & ~p of each fault,
+ *     which is violated by the feature model.</li>
+ * </ul>
+ *
+ * @author Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+@State(Scope.Thread)
+@Getter
+public class FaultyModelState {
+
+    @Param({"FeatureIDE/pizzas.xml", "FeatureIDE/busybox-1.18.0.xml"})
+    public String model;
+
+    @Param({"1", "2", "3"})
+    public int faults;
+
+    // the diagnosis model
+    private Set<Constraint> C;
+    private Set<Constraint> B;
+    private Set<Constraint> AC;
+    private ChocoConsistencyChecker checker;
+
+    // the debugging model
+    private Set<Constraint> CF;
+    private Set<Constraint> BF;
+    private Set<ITestCase> TC;
+    private ChocoConsistencyChecker debuggingChecker;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        FMParserFactory<Feature, AbstractRelationship<Feature>, CTConstraint> factory = FMParserFactory.getInstance();
+        FeatureModel<Feature, AbstractRelationship<Feature>, CTConstraint> featureModel = FeatureModels.parse(model, factory);
+        FaultInjector<Feature, AbstractRelationship<Feature>, CTConstraint> injector = new FaultInjector<>(featureModel, faults);
+
+        FMModelWithRequirement<Feature, AbstractRelationship<Feature>, CTConstraint> diagnosisModel
+                = new FMModelWithRequirement<>(featureModel, injector.getConflictingRequirement(), false, true, true, false);
+        diagnosisModel.initialize();
+
+        C = diagnosisModel.getPossiblyFaultyConstraints();
+        B = diagnosisModel.getCorrectConstraints();
+        AC = diagnosisModel.getAllConstraints();
+        checker = new ChocoConsistencyChecker(diagnosisModel);
+
+        FMDebuggingModel<Feature, AbstractRelationship<Feature>, CTConstraint> debuggingModel
+                = new FMDebuggingModel<>(featureModel, injector.getViolatedTestSuite(), new FMTestCaseTranslator(),
+                false, true, false);
+        debuggingModel.initialize();
+
+        CF = debuggingModel.getPossiblyFaultyConstraints();
+        BF = debuggingModel.getCorrectConstraints();
+        TC = debuggingModel.getTestcases();
+        debuggingChecker = new ChocoConsistencyChecker(debuggingModel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        checker.dispose();
+        debuggingChecker.dispose();
+    }
+}
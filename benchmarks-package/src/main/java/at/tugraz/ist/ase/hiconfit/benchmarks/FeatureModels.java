@@ -0,0 +1,63 @@
+/*
+ * High Performance Knowledge Based Configuration Techniques
+ *
+ * Copyright (c) 2023
+ *
+ * @author: Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+
+package at.tugraz.ist.ase.hiconfit.benchmarks;
+
+import at.tugraz.ist.ase.hiconfit.common.IOUtils;
+import at.tugraz.ist.ase.hiconfit.fm.core.AbstractRelationship;
+import at.tugraz.ist.ase.hiconfit.fm.core.CTConstraint;
+import at.tugraz.ist.ase.hiconfit.fm.core.Feature;
+import at.tugraz.ist.ase.hiconfit.fm.core.FeatureModel;
+import at.tugraz.ist.ase.hiconfit.fm.parser.FMParserFactory;
+import at.tugraz.ist.ase.hiconfit.fm.parser.FeatureModelParser;
+import at.tugraz.ist.ase.hiconfit.fm.parser.FeatureModelParserException;
+import lombok.Cleanup;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Loads the feature models bundled in the kb module.
+ *
+ * @author Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+@UtilityClass
+public class FeatureModels {
+
+    public final String FMS_FOLDER = "fms/";
+
+    /**
+     * Parses a bundled feature model.
+     * The parsers read files, hence the feature model is copied to a temporary file first.
+     * @param name the path of the feature model in the fms folder, e.g., FeatureIDE/linux-2.6.33.3.xml
+     * @param factory the factory of the parsers, which determines the type of the features
+     * @return the feature model
+     */
+    public <F extends Feature, R extends AbstractRelationship<F>, C extends CTConstraint>
+    FeatureModel<F, R, C> parse(@NonNull String name, @NonNull FMParserFactory<F, R, C> factory) throws IOException, FeatureModelParserException {
+        Path folder = Files.createTempDirectory("hiconfit-benchmarks");
+        // the parser is chosen by the extension of the file
+        Path file = folder.resolve(Path.of(name).getFileName());
+        try {
+            try (InputStream is = IOUtils.getInputStream(FeatureModels.class.getClassLoader(), FMS_FOLDER + name)) {
+                Files.copy(is, file);
+            }
+
+            @Cleanup("dispose")
+            FeatureModelParser<F, R, C> parser = factory.getParser(file.getFileName().toString());
+            return parser.parse(file.toFile());
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(folder);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * High Performance Knowledge Based Configuration Techniques
+ *
+ * Copyright (c) 2023
+ *
+ * @author: Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+
+package at.tugraz.ist.ase.hiconfit.benchmarks;
+
+import at.tugraz.ist.ase.hiconfit.cacdr.algorithms.hs.HSDAG;
+import at.tugraz.ist.ase.hiconfit.cacdr.algorithms.hs.HSDAGPruningEngine;
+import at.tugraz.ist.ase.hiconfit.cacdr.algorithms.hs.HSTree;
+import at.tugraz.ist.ase.hiconfit.cacdr.algorithms.hs.HSTreePruningEngine;
+import at.tugraz.ist.ase.hiconfit.cacdr.algorithms.hs.labeler.*;
+import at.tugraz.ist.ase.hiconfit.cacdr.algorithms.hs.parameters.*;
+import at.tugraz.ist.ase.hiconfit.kb.core.Constraint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the construction of HS-Tree and HS-DAG with each labeler.
+ * <p>
+ * The conflict labeler (QuickXPlain) leads to diagnoses as path labels, the diagnosis labelers
+ * to conflicts. The construction stops after maxLabels path labels, -1 for all.
+ *
+ * @author Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class HSBenchmark {
+
+    public enum Construction {
+        HSTREE,
+        HSDAG
+    }
+
+    public enum Labeler {
+        QUICKXPLAIN,
+        FASTDIAGV2,
+        FASTDIAGV3,
+        DIRECTDIAG,
+        FLEXDIAG,
+        DIRECTDEBUG
+    }
+
+    @Param({"HSTREE", "HSDAG"})
+    public Construction construction;
+
+    @Param({"QUICKXPLAIN", "FASTDIAGV2", "FASTDIAGV3", "DIRECTDIAG", "FLEXDIAG", "DIRECTDEBUG"})
+    public Labeler labeler;
+
+    @Param({"10"})
+    public int maxLabels;
+
+    @Benchmark
+    public List<Set<Constraint>> construct(FaultyModelState state, ConsistencyChecks checks) {
+        IHSLabelable hsLabeler = createLabeler(state);
+        HSTree hs = createConstructor(hsLabeler);
+
+        // limit the path labels only, since the node labels are also counted
+        if (hsLabeler.getType() == LabelerType.CONFLICT) {
+            hs.setMaxNumberOfDiagnoses(maxLabels);
+            hs.construct();
+            return hs.getDiagnoses();
+        } else {
+            hs.setMaxNumberOfConflicts(maxLabels);
+            hs.construct();
+            return hs.getConflicts();
+        }
+    }
+
+    private HSTree createConstructor(IHSLabelable hsLabeler) {
+        if (construction == Construction.HSDAG) {
+            HSDAG hsdag = new HSDAG(hsLabeler);
+            hsdag.setPruningEngine(new HSDAGPruningEngine(hsdag));
+            return hsdag;
+        }
+
+        HSTree hsTree = new HSTree(hsLabeler);
+        hsTree.setPruningEngine(new HSTreePruningEngine(hsTree));
+        return hsTree;
+    }
+
+    private IHSLabelable createLabeler(FaultyModelState state) {
+        return switch (labeler) {
+            case QUICKXPLAIN -> new QuickXPlainLabeler(state.getChecker(),
+                    QuickXPlainParameters.builder().C(state.getC()).B(state.getB()).build());
+            case FASTDIAGV2 -> new FastDiagV2Labeler(state.getChecker(),
+                    FastDiagV2Parameters.builder().C(state.getC()).AC(state.getAC()).build());
+            case FASTDIAGV3 -> new FastDiagV3Labeler(state.getChecker(),
+                    FastDiagV3Parameters.builder().C(state.getC()).B(state.getB()).build());
+            case DIRECTDIAG -> new DirectDiagLabeler(state.getChecker(),
+                    DirectDiagParameters.builder().C(state.getC()).B(state.getB()).build());
+            case FLEXDIAG -> new FlexDiagLabeler(state.getChecker(),
+                    FlexDiagParameters.builder().S(state.getC()).AC(state.getAC()).m(1).build());
+            case DIRECTDEBUG -> new DirectDebugLabeler(state.getDebuggingChecker(),
+                    DirectDebugParameters.builder().C(state.getCF()).B(state.getBF())
+                            .TV(Collections.emptySet()).TC(state.getTC()).build());
+        };
+    }
+}
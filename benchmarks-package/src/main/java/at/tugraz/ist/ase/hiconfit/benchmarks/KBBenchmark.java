@@ -0,0 +1,62 @@
+/*
+ * High Performance Knowledge Based Configuration Techniques
+ *
+ * Copyright (c) 2023
+ *
+ * @author: Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+
+package at.tugraz.ist.ase.hiconfit.benchmarks;
+
+import at.tugraz.ist.ase.hiconfit.fm.core.AbstractRelationship;
+import at.tugraz.ist.ase.hiconfit.fm.core.CTConstraint;
+import at.tugraz.ist.ase.hiconfit.fm.core.Feature;
+import at.tugraz.ist.ase.hiconfit.fm.core.FeatureModel;
+import at.tugraz.ist.ase.hiconfit.fm.parser.FMParserFactory;
+import at.tugraz.ist.ase.hiconfit.kb.fm.FMKB;
+import at.tugraz.ist.ase.hiconfit.kb.renault.RenaultKB;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the construction of the knowledge bases, i.e., of their variables and constraints.
+ * <p>
+ * A construction takes seconds, hence the time of single constructions is measured.
+ * The Choco model of RenaultKB needs a large heap.
+ * FMKB is built without negative constraints, whose translation to CNF doesn't finish for linux-2.6.33.3.
+ *
+ * @author Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class KBBenchmark {
+
+    @State(Scope.Thread)
+    public static class FeatureModelState {
+
+        @Param({"FeatureIDE/linux-2.6.33.3.xml"})
+        public String model;
+
+        private FeatureModel<Feature, AbstractRelationship<Feature>, CTConstraint> featureModel;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            FMParserFactory<Feature, AbstractRelationship<Feature>, CTConstraint> factory = FMParserFactory.getInstance();
+            featureModel = FeatureModels.parse(model, factory);
+        }
+    }
+
+    @Benchmark
+    public RenaultKB renaultKB() {
+        return new RenaultKB(true);
+    }
+
+    @Benchmark
+    public FMKB<Feature, AbstractRelationship<Feature>, CTConstraint> fmKB(FeatureModelState state) {
+        return new FMKB<>(state.featureModel, false);
+    }
+}
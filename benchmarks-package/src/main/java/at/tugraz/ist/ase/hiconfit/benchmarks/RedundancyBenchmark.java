@@ -0,0 +1,74 @@
+/*
+ * High Performance Knowledge Based Configuration Techniques
+ *
+ * Copyright (c) 2023
+ *
+ * @author: Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+
+package at.tugraz.ist.ase.hiconfit.benchmarks;
+
+import at.tugraz.ist.ase.hiconfit.cacdr.algorithms.WipeOutR_FM;
+import at.tugraz.ist.ase.hiconfit.cacdr.checker.ChocoConsistencyChecker;
+import at.tugraz.ist.ase.hiconfit.cdrmodel.fm.FMCdrModel;
+import at.tugraz.ist.ase.hiconfit.fm.core.AbstractRelationship;
+import at.tugraz.ist.ase.hiconfit.fm.core.CTConstraint;
+import at.tugraz.ist.ase.hiconfit.fm.core.Feature;
+import at.tugraz.ist.ase.hiconfit.fm.core.FeatureModel;
+import at.tugraz.ist.ase.hiconfit.fm.parser.FMParserFactory;
+import at.tugraz.ist.ase.hiconfit.kb.core.Constraint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the redundancy detection of WipeOutR_FM on feature models with injected redundant constraints.
+ * WipeOutR_FM needs the negative constraints, whose translation to CNF doesn't finish for large feature models,
+ * e.g., busybox-1.18.0.
+ *
+ * @author Viet-Man Le (vietman.le@ist.tugraz.at)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class RedundancyBenchmark {
+
+    @Param({"FeatureIDE/pizzas.xml", "FeatureIDE/mobilemedia2.xml"})
+    public String model;
+
+    @Param({"1", "2", "3"})
+    public int faults;
+
+    private List<Constraint> CF;
+    private ChocoConsistencyChecker checker;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        FMParserFactory<Feature, AbstractRelationship<Feature>, CTConstraint> factory = FMParserFactory.getInstance();
+        FeatureModel<Feature, AbstractRelationship<Feature>, CTConstraint> featureModel = FeatureModels.parse(model, factory);
+        new FaultInjector<>(featureModel, faults).injectRedundantConstraints();
+
+        // negative constraints are needed by ChocoConsistencyChecker to check ¬cstr
+        FMCdrModel<Feature, AbstractRelationship<Feature>, CTConstraint> cdrModel
+                = new FMCdrModel<>(featureModel, true, true, true, false);
+        cdrModel.initialize();
+
+        CF = new LinkedList<>(cdrModel.getPossiblyFaultyConstraints());
+        checker = new ChocoConsistencyChecker(cdrModel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        checker.dispose();
+    }
+
+    @Benchmark
+    public List<Constraint> wipeOutR_FM(ConsistencyChecks checks) {
+        return new WipeOutR_FM(checker).run(CF);
+    }
+}